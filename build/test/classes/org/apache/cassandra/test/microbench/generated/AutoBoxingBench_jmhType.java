@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class AutoBoxingBench_jmhType extends AutoBoxingBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class BTreeBuildBench_jmhType extends BTreeBuildBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class CompactionBench_jmhType extends CompactionBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class DiagnosticEventPersistenceBench_jmhType extends DiagnosticEventPersistenceBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class HashingBench_jmhType extends HashingBench_jmhType_B3 {
+}
+
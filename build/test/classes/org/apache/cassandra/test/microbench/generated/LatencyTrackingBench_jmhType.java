@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class LatencyTrackingBench_jmhType extends LatencyTrackingBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class MutationBench_ThreadState_jmhType extends MutationBench_ThreadState_jmhType_B3 {
+}
+
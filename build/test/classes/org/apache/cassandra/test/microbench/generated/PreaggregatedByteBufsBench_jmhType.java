@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class PreaggregatedByteBufsBench_jmhType extends PreaggregatedByteBufsBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class ReadWriteTest_jmhType extends ReadWriteTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class StreamingTombstoneHistogramBuilderBench_jmhType extends StreamingTombstoneHistogramBuilderBench_jmhType_B3 {
+}
+
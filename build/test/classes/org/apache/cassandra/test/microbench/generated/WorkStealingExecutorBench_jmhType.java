@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class WorkStealingExecutorBench_jmhType extends WorkStealingExecutorBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class ZeroCopyStreamingBenchmark_jmhType extends ZeroCopyStreamingBenchmark_jmhType_B3 {
+}
+